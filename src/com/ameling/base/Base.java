@@ -16,6 +16,10 @@
 
 package com.ameling.base;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 /**
@@ -48,6 +52,17 @@ public class Base {
 	 */
 	private final String prefix;
 
+	/**
+	 * Maps a character to its index in {@link #used_characters}, or -1 when the character is not part of this base. The length is always a power of 2 which is at least 128, so
+	 * the whole ASCII range can be looked up without a bounds check.
+	 */
+	private final int[] reverse_lookup;
+
+	/**
+	 * Whether all characters fit in one byte (Latin-1), which allows encoding straight into bytes
+	 */
+	private final boolean latin1;
+
 	/**
 	 * Creates a new base without a prefix
 	 * @param base The base representing this object
@@ -59,7 +74,8 @@ public class Base {
 	}
 
 	/**
-	 * Creates a new base with a prefix. The amount of bits is calculated using the following formula: log(base) / log(2)
+	 * Creates a new base with a prefix. The amount of bits is the position of the highest bit of the base, which is exactly log2(base) for a base which is a power of 2, and
+	 * log2(base) rounded down for any other base.
 	 * @param base The base representing this object
 	 * @param representing_characters The correct characters in the correct order from 0 to {base}
 	 * @param prefix The prefix of this base, can be null
@@ -68,23 +84,135 @@ public class Base {
 		this.base = base;
 		this.used_characters = representing_characters;
 		this.prefix = prefix;
-		amount_bits = (int) (Math.log(base) / Math.log(2));
+		amount_bits = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(base);
+		reverse_lookup = createReverseLookup(representing_characters);
+		latin1 = reverse_lookup.length <= 0x100;
 		//TODO check for amount characters
 	}
 
+	/**
+	 * Creates the reverse lookup table of the given characters. When a character occurs more than once, the first index is used just like a linear search would do.
+	 * @param characters The characters in order which correlates with the base
+	 * @return The table which maps a character to its index
+	 */
+	private static int[] createReverseLookup(final char[] characters) {
+		int max_character = 0x7F;
+		for (final char character : characters)
+			max_character = Math.max(max_character, character);
+		final int[] lookup = new int[Integer.highestOneBit(max_character) << 1];
+		Arrays.fill(lookup, -1);
+		for (int i = characters.length - 1; i >= 0; i--)
+			lookup[characters[i]] = i;
+		return lookup;
+	}
+
 	/**
 	 * Encodes the base10 number to the base which is represented by this object. That is done using an and on the number and then bit shifting the number to the right by the amount of bits.
 	 * @param value The value to encode
 	 * @return The representing {@link BaseNumber}
 	 */
 	public BaseNumber encode(final int value) {
+		if (latin1)
+			return new BaseNumber(this, value, new String(encodeToBytes(value), StandardCharsets.ISO_8859_1));
+		final char[] characters = new char[digitCount(value)];
 		int value_copy = value;
-		final StringBuilder builder = new StringBuilder();
-		while (value_copy != 0) {
-			builder.append(used_characters[value_copy & base - 1]);
-			value_copy = value_copy >> amount_bits;
+		for (int i = characters.length - 1; i >= 0; i--) {
+			characters[i] = used_characters[value_copy & base - 1];
+			value_copy = value_copy >>> amount_bits;
+		}
+		return new BaseNumber(this, value, new String(characters));
+	}
+
+	/**
+	 * Encodes the base10 number just like {@link #encode(int)}, but writes the characters as Latin-1 bytes. The prefix is not included. The bytes are written from the last
+	 * character to the first, so no reversing is necessary.
+	 * @param value The value to encode
+	 * @return The characters of the encoded value as bytes
+	 * @throws IllegalStateException if this base has characters which do not fit in a byte
+	 */
+	public byte[] encodeToBytes(final int value) {
+		checkLatin1();
+		final byte[] bytes = new byte[digitCount(value)];
+		int value_copy = value;
+		for (int i = bytes.length - 1; i >= 0; i--) {
+			bytes[i] = (byte) used_characters[value_copy & base - 1];
+			value_copy = value_copy >>> amount_bits;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Encodes the base10 number just like {@link #encodeToBytes(int)}, but writes the bytes into the buffer at its current position. The position is advanced by the amount of
+	 * written bytes, which only happens after all bytes are written.
+	 * @param value The value to encode
+	 * @param buffer The buffer to write to
+	 * @return The given buffer, which allows chaining of methods.
+	 * @throws IllegalStateException if this base has characters which do not fit in a byte
+	 * @throws ReadOnlyBufferException if the buffer is read only
+	 * @throws BufferOverflowException if the buffer has not enough space remaining
+	 */
+	public ByteBuffer encodeTo(final int value, final ByteBuffer buffer) {
+		checkLatin1();
+		if (buffer.isReadOnly())
+			throw new ReadOnlyBufferException();
+		final int amount = digitCount(value);
+		if (buffer.remaining() < amount)
+			throw new BufferOverflowException();
+		final int position = buffer.position();
+		int value_copy = value;
+		for (int i = position + amount - 1; i >= position; i--) {
+			buffer.put(i, (byte) used_characters[value_copy & base - 1]);
+			value_copy = value_copy >>> amount_bits;
 		}
-		return new BaseNumber(this, value, builder.reverse().toString());
+		buffer.position(position + amount);
+		return buffer;
+	}
+
+	/**
+	 * Calculates the amount of characters needed to encode the value
+	 * @param value The value to encode
+	 * @return The amount of characters, which is 0 for the value 0
+	 */
+	private int digitCount(final int value) {
+		return (Integer.SIZE - Integer.numberOfLeadingZeros(value) + amount_bits - 1) / amount_bits;
+	}
+
+	/**
+	 * Retrieves the amount of bits where one character is stored
+	 * @return The amount of bits
+	 */
+	int amountBits() {
+		return amount_bits;
+	}
+
+	/**
+	 * Checks if the characters of this base can be written as Latin-1 bytes
+	 * @throws IllegalStateException if this base has characters which do not fit in a byte
+	 */
+	private void checkLatin1() {
+		if (!latin1)
+			throw new IllegalStateException(this + " has characters which cannot be encoded as Latin-1 bytes");
+	}
+
+	/**
+	 * Creates a {@link BaseSequence} which generates every number from start up to and including {@link Integer#MAX_VALUE}
+	 * @param start The first value of the sequence
+	 * @return A new {@link BaseSequence}
+	 * @throws IllegalArgumentException if start is negative
+	 */
+	public BaseSequence sequence(final int start) {
+		return new BaseSequence(this, start, Integer.MAX_VALUE + 1L);
+	}
+
+	/**
+	 * Creates a {@link BaseSequence} which generates every number from start up to end
+	 * @param start The first value of the sequence (inclusive)
+	 * @param end The last value of the sequence (exclusive)
+	 * @return A new {@link BaseSequence}
+	 * @throws IllegalArgumentException if start is negative or end is less than start
+	 */
+	public BaseSequence sequence(final int start, final int end) {
+		return new BaseSequence(this, start, end);
 	}
 
 	/**
@@ -101,6 +229,68 @@ public class Base {
 		return new BaseNumber(this, container.value(), builder.reverse().toString());
 	}
 
+	/**
+	 * Encodes the base10 number to every given base using {@link #encode(int)}
+	 * @param value The value to encode
+	 * @param targets The bases to encode to
+	 * @return The representing {@link BaseNumber} objects in the same order as the targets
+	 */
+	public static BaseNumber[] encodeAll(final int value, final Base... targets) {
+		final BaseNumber[] numbers = new BaseNumber[targets.length];
+		for (int t = 0; t < targets.length; t++)
+			numbers[t] = targets[t].encode(value);
+		return numbers;
+	}
+
+	/**
+	 * Encodes the data to every given base while reading the data only once. The data is a big-endian number, so the last byte holds the lowest bits. Each byte is read once
+	 * and fed to a bit accumulator per base, every base then takes as many characters from its accumulator as its amount of bits allow. The characters are written from the end
+	 * of the output to the start. Leading zeros are kept, just like {@link #encodeFromBitContainer(BitContainer)} does with a container of {@code data.length * 8} bits.
+	 * @param data The bytes to encode
+	 * @param targets The bases to encode to
+	 * @return The representation of the data without prefix for every base, in the same order as the targets
+	 */
+	public static String[] encodeAll(final byte[] data, final Base... targets) {
+		final char[][] outputs = new char[targets.length][];
+		final int[] positions = new int[targets.length];
+		final long[] accumulators = new long[targets.length];
+		final int[] accumulated_bits = new int[targets.length];
+		for (int t = 0; t < targets.length; t++) {
+			final int amount_bits = targets[t].amount_bits;
+			outputs[t] = new char[(data.length * Byte.SIZE + amount_bits - 1) / amount_bits];
+			positions[t] = outputs[t].length;
+		}
+
+		for (int i = data.length - 1; i >= 0; i--) {
+			final long value = data[i] & 0xFF;
+			for (int t = 0; t < targets.length; t++) {
+				final int amount_bits = targets[t].amount_bits;
+				final long mask = (1L << amount_bits) - 1;
+				final char[] characters = targets[t].used_characters;
+				final char[] output = outputs[t];
+				long accumulator = accumulators[t] | value << accumulated_bits[t];
+				int bits = accumulated_bits[t] + Byte.SIZE;
+				int position = positions[t];
+				while (bits >= amount_bits) {
+					output[--position] = characters[(int) (accumulator & mask)];
+					accumulator >>>= amount_bits;
+					bits -= amount_bits;
+				}
+				accumulators[t] = accumulator;
+				accumulated_bits[t] = bits;
+				positions[t] = position;
+			}
+		}
+
+		final String[] representations = new String[targets.length];
+		for (int t = 0; t < targets.length; t++) {
+			if (accumulated_bits[t] > 0)
+				outputs[t][--positions[t]] = targets[t].used_characters[(int) accumulators[t]];
+			representations[t] = new String(outputs[t]);
+		}
+		return representations;
+	}
+
 	/**
 	 * Decodes the presentation using {@link #decodeToBitContainer(String)} and returns the direct value as an integer.
 	 * @param presentation The string representing the number
@@ -127,13 +317,7 @@ public class Base {
 		BitContainer main_container = new BitContainer(0);
 		BitContainer filler_container = new BitContainer(amount_bits);
 		for (final char character : presentation.toCharArray()) {
-			int position = -1;
-			for (int i = 0; i < used_characters.length; i++) {
-				if (character == used_characters[i]) {
-					position = i;
-					break;
-				}
-			}
+			final int position = character < reverse_lookup.length ? reverse_lookup[character] : -1;
 			if (position > -1) {
 				main_container = main_container.join(filler_container.fillContainer(position));
 			}
@@ -141,6 +325,71 @@ public class Base {
 		return main_container;
 	}
 
+	/**
+	 * Checks whether the presentation only consists of characters of this base, the prefix and surrounding whitespace are allowed just like {@link #decodeToBitContainer(String)}
+	 * allows them. Use this to reject invalid input before decoding it, since decoding silently drops unknown characters.
+	 * @param presentation The characters representing the number
+	 * @return True when the presentation is valid, false otherwise
+	 */
+	public boolean validate(final CharSequence presentation) {
+		return decodedBitLength(presentation) > -1;
+	}
+
+	/**
+	 * Validates the presentation and calculates the exact amount of bits the {@link BitContainer} of {@link #decodeToBitContainer(String)} will have, so output can be sized
+	 * before decoding. The characters are checked in blocks of 8: the characters of a block are or-ed together first, because the table is a power of 2 in length a single
+	 * comparison tells whether any character of the block falls outside of it. After that the table values are or-ed together without branching, where any -1 marks the
+	 * block as invalid.
+	 * @param presentation The characters representing the number
+	 * @return The amount of bits the decoded value has, or -1 when the presentation contains characters which are not part of this base
+	 */
+	public int decodedBitLength(final CharSequence presentation) {
+		int start = 0;
+		int end = presentation.length();
+		while (start < end && presentation.charAt(start) <= ' ')
+			start++;
+		while (end > start && presentation.charAt(end - 1) <= ' ')
+			end--;
+		start += prefixLength(presentation, start, end);
+
+		final int[] lookup = reverse_lookup;
+		int invalid = 0;
+		int i = start;
+		for (; i + 8 <= end; i += 8) {
+			final char c0 = presentation.charAt(i), c1 = presentation.charAt(i + 1), c2 = presentation.charAt(i + 2), c3 = presentation.charAt(i + 3);
+			final char c4 = presentation.charAt(i + 4), c5 = presentation.charAt(i + 5), c6 = presentation.charAt(i + 6), c7 = presentation.charAt(i + 7);
+			if ((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) >= lookup.length)
+				return -1;
+			invalid |= lookup[c0] | lookup[c1] | lookup[c2] | lookup[c3] | lookup[c4] | lookup[c5] | lookup[c6] | lookup[c7];
+		}
+		for (; i < end; i++) {
+			final char character = presentation.charAt(i);
+			if (character >= lookup.length)
+				return -1;
+			invalid |= lookup[character];
+		}
+		if (invalid < 0)
+			return -1;
+		return (end - start) * amount_bits;
+	}
+
+	/**
+	 * Retrieves the length of the prefix when the characters between start and end begin with it
+	 * @param presentation The characters representing the number
+	 * @param start The start position (inclusive)
+	 * @param end The end position (exclusive)
+	 * @return The length of the prefix or 0 when the prefix is not there
+	 */
+	private int prefixLength(final CharSequence presentation, final int start, final int end) {
+		final String prefix = getPrefix();
+		if (prefix.isEmpty() || end - start < prefix.length())
+			return 0;
+		for (int i = 0; i < prefix.length(); i++)
+			if (presentation.charAt(start + i) != prefix.charAt(i))
+				return 0;
+		return prefix.length();
+	}
+
 	/**
 	 * Retrieves the prefix of this base, if none is given an empty string is returned
 	 * @return The correct prefix
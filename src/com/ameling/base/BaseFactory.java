@@ -27,16 +27,102 @@ import java.util.Map;
 public class BaseFactory {
 
 	/**
-	 * The storage of the base number along with the {@link Base} object.
+	 * The storage of the base number along with the {@link Base} object, for the bases which are not built in.
 	 */
 	private static Map<Integer, Base> base_storage = new HashMap<>();
 
-	static {
-		base_storage.put(2, createBase(2, new char[] { '0', '1' }, "0b")); // Binary
-		base_storage.put(8, createBase(8, "012345678".toCharArray(), "0")); // Base 8 or octal base
-		base_storage.put(16, createBase(16, "0123456789ABCDEF".toCharArray(), "0x")); // Hexadecimal
-		base_storage.put(32, createBase(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray())); // Base32, note that padding is not accounted for
-		base_storage.put(64, createBase(64, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray())); // Base 64, note that padding is not accounted for
+	/**
+	 * The built in bases are each created in their own holder class, which the JVM only initializes when the base is retrieved for the first time. That way only the bases
+	 * that are actually used are created.
+	 */
+	private static final class BinaryHolder {
+		static final Base BASE = createBase(2, new char[] { '0', '1' }, "0b"); // Binary
+	}
+
+	private static final class OctalHolder {
+		static final Base BASE = createBase(8, "012345678".toCharArray(), "0"); // Base 8 or octal base
+	}
+
+	private static final class HexadecimalHolder {
+		static final Base BASE = createBase(16, "0123456789ABCDEF".toCharArray(), "0x"); // Hexadecimal
+	}
+
+	private static final class Base32Holder {
+		static final Base BASE = createBase(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray()); // Base32 as a number, see getRfc4648Base32() for padded byte groups
+	}
+
+	private static final class Base64Holder {
+		static final Base BASE = createBase(64, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray()); // Base 64 as a number, see getRfc4648Base64() for padded byte groups
+	}
+
+	private static final class Rfc4648Base64Holder {
+		static final Rfc4648Base BASE = new Rfc4648Base(64, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray());
+	}
+
+	private static final class Rfc4648Base64UrlHolder {
+		static final Rfc4648Base BASE = new Rfc4648Base(64, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray());
+	}
+
+	private static final class Rfc4648Base32Holder {
+		static final Rfc4648Base BASE = new Rfc4648Base(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray());
+	}
+
+	private static final class Rfc4648Base32HexHolder {
+		static final Rfc4648Base BASE = new Rfc4648Base(32, "0123456789ABCDEFGHIJKLMNOPQRSTUV".toCharArray());
+	}
+
+	/**
+	 * Retrieves the built in base without initializing the other built in bases
+	 * @param base The base to retrieve
+	 * @return The {@link Base} object or null when it is not built in
+	 */
+	private static Base getBuiltInBase(final int base) {
+		switch (base) {
+			case 2:
+				return BinaryHolder.BASE;
+			case 8:
+				return OctalHolder.BASE;
+			case 16:
+				return HexadecimalHolder.BASE;
+			case 32:
+				return Base32Holder.BASE;
+			case 64:
+				return Base64Holder.BASE;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Retrieves the padded base64 of RFC 4648, which encodes bytes in groups. Use {@link Rfc4648Base#withLineLength(int, String)} with 76 and "\r\n" for MIME.
+	 * @return The {@link Rfc4648Base} object
+	 */
+	public static Rfc4648Base getRfc4648Base64() {
+		return Rfc4648Base64Holder.BASE;
+	}
+
+	/**
+	 * Retrieves the padded URL and filename safe base64 of RFC 4648, which uses '-' and '_' instead of '+' and '/'
+	 * @return The {@link Rfc4648Base} object
+	 */
+	public static Rfc4648Base getRfc4648Base64Url() {
+		return Rfc4648Base64UrlHolder.BASE;
+	}
+
+	/**
+	 * Retrieves the padded base32 of RFC 4648, which encodes bytes in groups
+	 * @return The {@link Rfc4648Base} object
+	 */
+	public static Rfc4648Base getRfc4648Base32() {
+		return Rfc4648Base32Holder.BASE;
+	}
+
+	/**
+	 * Retrieves the padded base32 with extended hex alphabet of RFC 4648, which keeps the sort order of the encoded bytes
+	 * @return The {@link Rfc4648Base} object
+	 */
+	public static Rfc4648Base getRfc4648Base32Hex() {
+		return Rfc4648Base32HexHolder.BASE;
 	}
 
 	/**
@@ -45,7 +131,16 @@ public class BaseFactory {
 	 * @return True when it exists or false when it doesn't
 	 */
 	public static boolean gotBase(final int base) {
-		return base_storage.containsKey(base);
+		switch (base) {
+			case 2:
+			case 8:
+			case 16:
+			case 32:
+			case 64:
+				return true;
+			default:
+				return base_storage.containsKey(base);
+		}
 	}
 
 	/**
@@ -54,10 +149,11 @@ public class BaseFactory {
 	 * @return The {@link Base} object or null when it does not exist
 	 */
 	public static Base getBase(final int base) {
-		if (gotBase(base)) {
-			return base_storage.get(base);
+		final Base built_in = getBuiltInBase(base);
+		if (built_in != null) {
+			return built_in;
 		}
-		return null;
+		return base_storage.get(base);
 	}
 
 	/**
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * This class generates consecutive {@link BaseNumber} objects of a {@link Base}. Instead of encoding every value from scratch, the characters of the current value are kept in a
+ * buffer and incremented in place: the last character is raised by one, and when it wraps around to the first character the carry moves to the character before it. On average
+ * less than two characters change per step. This only works for bases which are a power of 2, for other bases every value is encoded with {@link Base#encode(int)}.
+ * A sequence is not thread safe, use a {@link BaseSequenceAllocator} to give every thread its own range of values.
+ */
+public class BaseSequence implements Iterator<BaseNumber> {
+
+	/**
+	 * The base the numbers are encoded in
+	 */
+	private final Base base;
+
+	/**
+	 * Whether the characters can be incremented in place, which is only the case when the base is a power of 2
+	 */
+	private final boolean counting;
+
+	/**
+	 * The characters of the next value, aligned to the end of the array
+	 */
+	private final char[] characters;
+
+	/**
+	 * The index in the used characters of the base for every character in {@link #characters}
+	 */
+	private final int[] digits;
+
+	/**
+	 * The position of the first character of the next value in {@link #characters}
+	 */
+	private int offset;
+
+	/**
+	 * The next value of this sequence
+	 */
+	private long next_value;
+
+	/**
+	 * The value where this sequence stops (exclusive)
+	 */
+	private final long end;
+
+	/**
+	 * Creates a new sequence of the given base
+	 * @param base The base the numbers are encoded in
+	 * @param start The first value of the sequence (inclusive)
+	 * @param end The value where the sequence stops (exclusive)
+	 * @throws IllegalArgumentException if start is negative or end is less than start
+	 */
+	BaseSequence(final Base base, final int start, final long end) {
+		if (start < 0)
+			throw new IllegalArgumentException("The start of a sequence cannot be negative: " + start);
+		if (end < start)
+			throw new IllegalArgumentException("The end of a sequence cannot be less than its start: " + end + " < " + start);
+		this.base = base;
+		this.next_value = start;
+		this.end = end;
+		counting = (base.base & base.base - 1) == 0;
+		final int length = (Integer.SIZE + base.amountBits() - 1) / base.amountBits();
+		characters = new char[length];
+		digits = new int[length];
+		offset = length;
+		for (int value_copy = start; value_copy != 0; value_copy >>>= base.amountBits()) {
+			offset--;
+			digits[offset] = value_copy & base.base - 1;
+			characters[offset] = base.used_characters[digits[offset]];
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return next_value < end;
+	}
+
+	/**
+	 * Retrieves the next number of this sequence and increments the characters for the number after that
+	 * @return The next {@link BaseNumber}
+	 * @throws NoSuchElementException if the end of the sequence is reached
+	 */
+	@Override
+	public BaseNumber next() {
+		if (!hasNext())
+			throw new NoSuchElementException();
+		final int value = (int) next_value++;
+		if (!counting)
+			return base.encode(value);
+		final BaseNumber number = new BaseNumber(base, value, new String(characters, offset, characters.length - offset));
+		if (hasNext())
+			increment();
+		return number;
+	}
+
+	/**
+	 * Increments the characters by one. Every character which is at the highest digit becomes the lowest digit, and the character before it is incremented. When all characters
+	 * were at the highest digit a new character is placed in front of them.
+	 */
+	private void increment() {
+		final int highest_digit = base.base - 1;
+		int i = characters.length - 1;
+		while (i >= offset && digits[i] == highest_digit) {
+			digits[i] = 0;
+			characters[i] = base.used_characters[0];
+			i--;
+		}
+		if (i < offset)
+			offset = i;
+		digits[i]++;
+		characters[i] = base.used_characters[digits[i]];
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException("Numbers cannot be removed from a sequence");
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class hands out ranges of consecutive values of a {@link Base} to multiple threads. A thread reserves a block of values once, using a single atomic addition, and then
+ * generates the numbers of that block with its own {@link BaseSequence} without any further contention.
+ */
+public class BaseSequenceAllocator {
+
+	/**
+	 * The base the numbers are encoded in
+	 */
+	private final Base base;
+
+	/**
+	 * The first value which has not been reserved yet
+	 */
+	private final AtomicLong next_value;
+
+	/**
+	 * The value where the allocator stops (exclusive)
+	 */
+	private final long end;
+
+	/**
+	 * Creates a new allocator which hands out every value from start up to and including {@link Integer#MAX_VALUE}
+	 * @param base The base the numbers are encoded in
+	 * @param start The first value to hand out
+	 * @throws IllegalArgumentException if start is negative
+	 */
+	public BaseSequenceAllocator(final Base base, final int start) {
+		if (start < 0)
+			throw new IllegalArgumentException("The start of an allocator cannot be negative: " + start);
+		this.base = base;
+		this.next_value = new AtomicLong(start);
+		this.end = Integer.MAX_VALUE + 1L;
+	}
+
+	/**
+	 * Reserves the next block of values. The block can be smaller than the requested amount when the last values are handed out.
+	 * @param amount The amount of values to reserve
+	 * @return A {@link BaseSequence} which generates the reserved values
+	 * @throws IllegalArgumentException if amount is not positive
+	 * @throws IllegalStateException if all values are handed out
+	 */
+	public BaseSequence reserve(final int amount) {
+		if (amount <= 0)
+			throw new IllegalArgumentException("The amount of values to reserve must be positive: " + amount);
+		final long block_start = next_value.getAndAdd(amount);
+		if (block_start >= end)
+			throw new IllegalStateException("All values of " + base + " are handed out");
+		return new BaseSequence(base, (int) block_start, Math.min(block_start + amount, end));
+	}
+}
@@ -83,6 +83,149 @@ public class BitContainer {
 		return new_container;
 	}
 
+	/**
+	 * Creates a new {@link BitContainer} where a bit is on when it is on in both this container and the given container. The new container is as long as the longest of the two,
+	 * missing bits of the shorter container are off.
+	 * @param container The container to combine with
+	 * @return A new {@link BitContainer}
+	 */
+	public BitContainer and(final BitContainer container) {
+		final boolean[] other = container.bits;
+		final BitContainer new_container = new BitContainer(Math.max(bits.length, other.length));
+		final boolean[] result = new_container.bits;
+		final int common = Math.min(bits.length, other.length);
+		for (int i = 0; i < common; i++)
+			result[i] = bits[i] & other[i];
+		return new_container;
+	}
+
+	/**
+	 * Creates a new {@link BitContainer} where a bit is on when it is on in this container or the given container. The new container is as long as the longest of the two.
+	 * @param container The container to combine with
+	 * @return A new {@link BitContainer}
+	 */
+	public BitContainer or(final BitContainer container) {
+		final boolean[] other = container.bits;
+		final BitContainer new_container = new BitContainer(Math.max(bits.length, other.length));
+		final boolean[] result = new_container.bits;
+		final int common = Math.min(bits.length, other.length);
+		for (int i = 0; i < common; i++)
+			result[i] = bits[i] | other[i];
+		copyRemainder(other, result, common);
+		return new_container;
+	}
+
+	/**
+	 * Creates a new {@link BitContainer} where a bit is on when it is on in exactly one of this container and the given container. The new container is as long as the longest
+	 * of the two.
+	 * @param container The container to combine with
+	 * @return A new {@link BitContainer}
+	 */
+	public BitContainer xor(final BitContainer container) {
+		final boolean[] other = container.bits;
+		final BitContainer new_container = new BitContainer(Math.max(bits.length, other.length));
+		final boolean[] result = new_container.bits;
+		final int common = Math.min(bits.length, other.length);
+		for (int i = 0; i < common; i++)
+			result[i] = bits[i] ^ other[i];
+		copyRemainder(other, result, common);
+		return new_container;
+	}
+
+	/**
+	 * Creates a new {@link BitContainer} where a bit is on when it is on in this container and off in the given container. The new container is as long as this container.
+	 * @param container The container with the bits to clear
+	 * @return A new {@link BitContainer}
+	 */
+	public BitContainer andNot(final BitContainer container) {
+		final boolean[] other = container.bits;
+		final BitContainer new_container = new BitContainer(bits.length);
+		final boolean[] result = new_container.bits;
+		final int common = Math.min(bits.length, other.length);
+		for (int i = 0; i < common; i++)
+			result[i] = bits[i] & !other[i];
+		System.arraycopy(bits, common, result, common, bits.length - common);
+		return new_container;
+	}
+
+	/**
+	 * Copies the bits after the common part of the two containers from the longest container to the result
+	 * @param other The bits of the other container
+	 * @param result The bits of the new container
+	 * @param common The amount of bits both containers have
+	 */
+	private void copyRemainder(final boolean[] other, final boolean[] result, final int common) {
+		final boolean[] longest = bits.length > other.length ? bits : other;
+		System.arraycopy(longest, common, result, common, longest.length - common);
+	}
+
+	/**
+	 * Counts the bits which are on
+	 * @return The amount of bits which are on
+	 */
+	public int cardinality() {
+		int count = 0;
+		for (final boolean bit : bits)
+			if (bit)
+				count++;
+		return count;
+	}
+
+	/**
+	 * Finds the first bit which is on, starting at the given position
+	 * @param from The position to start searching at (inclusive)
+	 * @return The position of the bit or -1 when there is no such bit
+	 * @throws IndexOutOfBoundsException if from < 0
+	 */
+	public int nextSetBit(final int from) {
+		if (from < 0)
+			throw new IndexOutOfBoundsException("Position " + from + " is out of bounds for " + bits.length + " bits");
+		for (int i = from; i < bits.length; i++)
+			if (bits[i])
+				return i;
+		return -1;
+	}
+
+	/**
+	 * Counts the bits which are on before the given position. For many queries on a large container, use {@link #rankIndex()} instead.
+	 * @param position The position to count up to (exclusive)
+	 * @return The amount of bits which are on before the position
+	 * @throws IndexOutOfBoundsException if position < 0 or position > bits()
+	 */
+	public int rank(final int position) {
+		if (position < 0 || position > bits.length)
+			throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for " + bits.length + " bits");
+		int count = 0;
+		for (int i = 0; i < position; i++)
+			if (bits[i])
+				count++;
+		return count;
+	}
+
+	/**
+	 * Finds the position of the n-th bit which is on, counting from 0. For many queries on a large container, use {@link #rankIndex()} instead.
+	 * @param n The amount of bits which are on before the bit to find
+	 * @return The position of the bit or -1 when there are not enough bits on
+	 */
+	public int select(final int n) {
+		if (n < 0)
+			return -1;
+		int count = 0;
+		for (int i = 0; i < bits.length; i++)
+			if (bits[i] && count++ == n)
+				return i;
+		return -1;
+	}
+
+	/**
+	 * Creates a {@link BitRankIndex} of the current bits, which answers rank and select queries without walking over all bits. Later changes to this container are not
+	 * reflected in the index.
+	 * @return A new {@link BitRankIndex}
+	 */
+	public BitRankIndex rankIndex() {
+		return new BitRankIndex(bits);
+	}
+
 	/**
 	 * Calculates the value of this {@link BitContainer}
 	 * @return The value of this {@link BitContainer}
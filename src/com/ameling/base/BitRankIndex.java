@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+/**
+ * This class answers rank and select queries on the bits of a {@link BitContainer}. The bits are packed in words of 64 bits, so the bits of a whole word are counted at once
+ * with {@link Long#bitCount(long)}. Every block of 8 words (512 bits) stores the amount of bits which are on before it, which costs only 32 bits per block. A rank query then
+ * counts at most 8 words, and a select query searches the blocks first and then at most 8 words.
+ */
+public class BitRankIndex {
+
+	/**
+	 * The amount of words in one block
+	 */
+	private static final int WORDS_PER_BLOCK = 8;
+
+	/**
+	 * The bits packed in words, where bit i is stored in word i / 64 at position i % 64
+	 */
+	private final long[] words;
+
+	/**
+	 * The amount of bits which are on before each block, with one extra entry holding the total
+	 */
+	private final int[] block_ranks;
+
+	/**
+	 * The amount of bits of the container
+	 */
+	private final int amount_bits;
+
+	/**
+	 * Creates a new index of the given bits
+	 * @param bits The bits of a {@link BitContainer}
+	 */
+	BitRankIndex(final boolean[] bits) {
+		amount_bits = bits.length;
+		words = new long[(bits.length + Long.SIZE - 1) / Long.SIZE];
+		for (int i = 0; i < bits.length; i++)
+			if (bits[i])
+				words[i >>> 6] |= 1L << i;
+
+		block_ranks = new int[(words.length + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK + 1];
+		int count = 0;
+		for (int i = 0; i < words.length; i++) {
+			if (i % WORDS_PER_BLOCK == 0)
+				block_ranks[i / WORDS_PER_BLOCK] = count;
+			count += Long.bitCount(words[i]);
+		}
+		block_ranks[block_ranks.length - 1] = count;
+	}
+
+	/**
+	 * Retrieves the amount of bits which are on
+	 * @return The amount of bits which are on
+	 */
+	public int cardinality() {
+		return block_ranks[block_ranks.length - 1];
+	}
+
+	/**
+	 * Counts the bits which are on before the given position
+	 * @param position The position to count up to (exclusive)
+	 * @return The amount of bits which are on before the position
+	 * @throws IndexOutOfBoundsException if position < 0 or position > the amount of bits
+	 */
+	public int rank(final int position) {
+		if (position < 0 || position > amount_bits)
+			throw new IndexOutOfBoundsException("Position " + position + " is out of bounds for " + amount_bits + " bits");
+		final int word = position >>> 6;
+		int count = block_ranks[word / WORDS_PER_BLOCK];
+		for (int i = word - word % WORDS_PER_BLOCK; i < word; i++)
+			count += Long.bitCount(words[i]);
+		if ((position & 63) != 0)
+			count += Long.bitCount(words[word] & -1L >>> Long.SIZE - (position & 63));
+		return count;
+	}
+
+	/**
+	 * Finds the position of the n-th bit which is on, counting from 0
+	 * @param n The amount of bits which are on before the bit to find
+	 * @return The position of the bit or -1 when there are not enough bits on
+	 */
+	public int select(final int n) {
+		if (n < 0 || n >= cardinality())
+			return -1;
+		// Find the last block with less than n + 1 bits on before it
+		int low = 0;
+		int high = block_ranks.length - 2;
+		while (low < high) {
+			final int middle = (low + high + 1) >>> 1;
+			if (block_ranks[middle] <= n)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		int remaining = n - block_ranks[low];
+		int word = low * WORDS_PER_BLOCK;
+		int count = Long.bitCount(words[word]);
+		while (count <= remaining) {
+			remaining -= count;
+			count = Long.bitCount(words[++word]);
+		}
+		long bits = words[word];
+		for (int i = 0; i < remaining; i++)
+			bits &= bits - 1;
+		return (word << 6) + Long.numberOfTrailingZeros(bits);
+	}
+}
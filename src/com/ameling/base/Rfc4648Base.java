@@ -0,0 +1,405 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class is a {@link Base} which also encodes and decodes bytes as described in RFC 4648, so the output can be exchanged with other implementations. The numeric methods of
+ * {@link Base} still work as before, but {@link #encodeBytes(byte[])} and {@link #decodeBytes(CharSequence)} work on groups of whole bytes instead of a single number: base64
+ * turns every 3 bytes into 4 characters and base32 turns every 5 bytes into 8 characters. A group is read into one number and all characters of it are looked up in a table
+ * at once. When the last group is incomplete, it is filled up with zero bits and the output is padded with '=' characters.
+ * When decoding, padding is optional, but '=' characters are only accepted at the end of an incomplete last group and exactly as many as that group lacks.
+ * Objects of this class are immutable, {@link #withoutPadding()} and {@link #withLineLength(int, String)} create a new object with the changed setting.
+ */
+public class Rfc4648Base extends Base {
+
+	/**
+	 * The character which fills up the last group
+	 */
+	private static final char PADDING = '=';
+
+	/**
+	 * The amount of bits of one character
+	 */
+	private final int character_bits;
+
+	/**
+	 * The amount of bytes in one group
+	 */
+	private final int group_bytes;
+
+	/**
+	 * The amount of characters in one group
+	 */
+	private final int group_characters;
+
+	/**
+	 * The characters of this base as Latin-1 bytes
+	 */
+	private final byte[] encode_table;
+
+	/**
+	 * Maps a Latin-1 character to its value, or -1 when the character is not part of this base
+	 */
+	private final int[] decode_table;
+
+	/**
+	 * Whether the output is padded with '=' characters
+	 */
+	private final boolean padding;
+
+	/**
+	 * The maximum amount of characters on one line, or 0 when the output is not split in lines
+	 */
+	private final int line_length;
+
+	/**
+	 * The separator which is placed between lines
+	 */
+	private final String line_separator;
+
+	/**
+	 * Creates a new padded base which does not split the output in lines
+	 * @param base The base representing this object, either 32 or 64
+	 * @param representing_characters The correct characters in the correct order from 0 to {base}
+	 * @throws IllegalArgumentException if the base is not 32 or 64, or the amount of characters is not equal to the base
+	 */
+	protected Rfc4648Base(final int base, final char[] representing_characters) {
+		this(base, representing_characters, true, 0, "");
+	}
+
+	/**
+	 * Creates a new base with the given settings
+	 * @param base The base representing this object, either 32 or 64
+	 * @param representing_characters The correct characters in the correct order from 0 to {base}
+	 * @param padding Whether the output is padded with '=' characters
+	 * @param line_length The maximum amount of characters on one line, which is rounded down to a whole amount of groups. 0 or less does not split the output in lines.
+	 * @param line_separator The separator which is placed between lines
+	 * @throws IllegalArgumentException if the base is not 32 or 64, the amount of characters is not equal to the base or the line separator is invalid
+	 */
+	protected Rfc4648Base(final int base, final char[] representing_characters, final boolean padding, final int line_length, final String line_separator) {
+		super(base, representing_characters);
+		if (base != 32 && base != 64)
+			throw new IllegalArgumentException("RFC 4648 only describes base32 and base64, not base" + base);
+		if (representing_characters.length != base)
+			throw new IllegalArgumentException("base" + base + " needs " + base + " characters, got " + representing_characters.length);
+		character_bits = amountBits();
+		group_bytes = base == 64 ? 3 : 5;
+		group_characters = group_bytes * Byte.SIZE / character_bits;
+
+		encode_table = new byte[base];
+		decode_table = new int[0x100];
+		Arrays.fill(decode_table, -1);
+		for (int i = 0; i < base; i++) {
+			final char character = representing_characters[i];
+			if (character >= 0x80 || character == PADDING)
+				throw new IllegalArgumentException("Invalid character for RFC 4648: " + character);
+			encode_table[i] = (byte) character;
+			decode_table[character] = i;
+		}
+
+		this.padding = padding;
+		this.line_length = Math.max(line_length, 0) / group_characters * group_characters;
+		this.line_separator = line_separator;
+		if (this.line_length > 0) {
+			if (line_separator.isEmpty())
+				throw new IllegalArgumentException("The line separator cannot be empty");
+			for (int i = 0; i < line_separator.length(); i++) {
+				final char character = line_separator.charAt(i);
+				if (character > ' ')
+					throw new IllegalArgumentException("The line separator can only contain whitespace, not: " + character);
+			}
+		}
+	}
+
+	/**
+	 * Creates the same base which does not pad the output with '=' characters
+	 * @return A new {@link Rfc4648Base}
+	 */
+	public Rfc4648Base withoutPadding() {
+		return new Rfc4648Base(base, used_characters, false, line_length, line_separator);
+	}
+
+	/**
+	 * Creates the same base which splits the output in lines, for example MIME uses lines of 76 characters separated by "\r\n". When decoding, the characters of the separator
+	 * are skipped.
+	 * @param line_length The maximum amount of characters on one line, which is rounded down to a whole amount of groups. 0 or less does not split the output in lines.
+	 * @param line_separator The separator which is placed between lines
+	 * @return A new {@link Rfc4648Base}
+	 * @throws IllegalArgumentException if the line separator is empty or contains characters which are not whitespace
+	 */
+	public Rfc4648Base withLineLength(final int line_length, final String line_separator) {
+		return new Rfc4648Base(base, used_characters, padding, line_length, line_separator);
+	}
+
+	/**
+	 * Encodes the bytes using {@link #encodeBytesToAscii(byte[])} and creates a String of it
+	 * @param data The bytes to encode
+	 * @return The encoded bytes
+	 */
+	public String encodeBytes(final byte[] data) {
+		return new String(encodeBytesToAscii(data), StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Encodes the bytes group by group and writes the characters as ASCII bytes. The last incomplete group is encoded bit by bit and padded when padding is enabled, and after
+	 * every full line the line separator is placed.
+	 * @param data The bytes to encode
+	 * @return The characters as ASCII bytes
+	 */
+	public byte[] encodeBytesToAscii(final byte[] data) {
+		final int full_end = data.length - data.length % group_bytes;
+		final int remaining = data.length - full_end;
+		int encoded_length = full_end / group_bytes * group_characters;
+		if (remaining > 0)
+			encoded_length += padding ? group_characters : (remaining * Byte.SIZE + character_bits - 1) / character_bits;
+		final byte[] separator = line_separator.getBytes(StandardCharsets.ISO_8859_1);
+		final int amount_separators = line_length > 0 && encoded_length > 0 ? (encoded_length - 1) / line_length : 0;
+		final byte[] output = new byte[encoded_length + amount_separators * separator.length];
+
+		final int line_bytes = line_length > 0 ? line_length / group_characters * group_bytes : full_end;
+		int source = 0;
+		int destination = 0;
+		while (source < full_end) {
+			final int line_end = Math.min(source + line_bytes, full_end);
+			if (character_bits == 6)
+				destination = encodeBase64Groups(data, source, line_end, output, destination);
+			else
+				destination = encodeBase32Groups(data, source, line_end, output, destination);
+			source = line_end;
+			if (destination < output.length && line_length > 0 && source % line_bytes == 0) {
+				System.arraycopy(separator, 0, output, destination, separator.length);
+				destination += separator.length;
+			}
+		}
+
+		if (remaining > 0) {
+			final int mask = (1 << character_bits) - 1;
+			long bits = 0;
+			int amount_bits = 0;
+			for (; source < data.length; source++) {
+				bits = bits << Byte.SIZE | data[source] & 0xFF;
+				amount_bits += Byte.SIZE;
+				while (amount_bits >= character_bits) {
+					amount_bits -= character_bits;
+					output[destination++] = encode_table[(int) (bits >>> amount_bits) & mask];
+				}
+			}
+			if (amount_bits > 0)
+				output[destination++] = encode_table[(int) (bits << character_bits - amount_bits) & mask];
+			while (destination < output.length)
+				output[destination++] = PADDING;
+		}
+		return output;
+	}
+
+	/**
+	 * Encodes groups of 3 bytes to 4 characters
+	 * @param data The bytes to encode
+	 * @param start The first byte to encode (inclusive)
+	 * @param end The last byte to encode (exclusive), start and end must be a whole amount of groups apart
+	 * @param output The array to write the characters to
+	 * @param destination The position to write the first character
+	 * @return The position after the last written character
+	 */
+	private int encodeBase64Groups(final byte[] data, final int start, final int end, final byte[] output, int destination) {
+		final byte[] table = encode_table;
+		for (int i = start; i < end; i += 3) {
+			final int bits = (data[i] & 0xFF) << 16 | (data[i + 1] & 0xFF) << 8 | data[i + 2] & 0xFF;
+			output[destination] = table[bits >>> 18];
+			output[destination + 1] = table[bits >>> 12 & 0x3F];
+			output[destination + 2] = table[bits >>> 6 & 0x3F];
+			output[destination + 3] = table[bits & 0x3F];
+			destination += 4;
+		}
+		return destination;
+	}
+
+	/**
+	 * Encodes groups of 5 bytes to 8 characters
+	 * @param data The bytes to encode
+	 * @param start The first byte to encode (inclusive)
+	 * @param end The last byte to encode (exclusive), start and end must be a whole amount of groups apart
+	 * @param output The array to write the characters to
+	 * @param destination The position to write the first character
+	 * @return The position after the last written character
+	 */
+	private int encodeBase32Groups(final byte[] data, final int start, final int end, final byte[] output, int destination) {
+		final byte[] table = encode_table;
+		for (int i = start; i < end; i += 5) {
+			final long bits = (data[i] & 0xFFL) << 32 | (data[i + 1] & 0xFFL) << 24 | (data[i + 2] & 0xFF) << 16 | (data[i + 3] & 0xFF) << 8 | data[i + 4] & 0xFF;
+			output[destination] = table[(int) (bits >>> 35)];
+			output[destination + 1] = table[(int) (bits >>> 30) & 0x1F];
+			output[destination + 2] = table[(int) (bits >>> 25) & 0x1F];
+			output[destination + 3] = table[(int) (bits >>> 20) & 0x1F];
+			output[destination + 4] = table[(int) (bits >>> 15) & 0x1F];
+			output[destination + 5] = table[(int) (bits >>> 10) & 0x1F];
+			output[destination + 6] = table[(int) (bits >>> 5) & 0x1F];
+			output[destination + 7] = table[(int) bits & 0x1F];
+			destination += 8;
+		}
+		return destination;
+	}
+
+	/**
+	 * Decodes characters which are encoded by {@link #encodeBytes(byte[])} using {@link #decodeBytesFromAscii(byte[])}. Characters which are not Latin-1 are never valid, so
+	 * they are replaced by a character which is invalid as well.
+	 * @param presentation The encoded characters
+	 * @return The decoded bytes
+	 * @throws IllegalArgumentException if the characters are not valid for this base
+	 */
+	public byte[] decodeBytes(final CharSequence presentation) {
+		if (presentation instanceof String)
+			return decodeBytesFromAscii(((String) presentation).getBytes(StandardCharsets.ISO_8859_1));
+		final byte[] ascii = new byte[presentation.length()];
+		for (int i = 0; i < ascii.length; i++) {
+			final char character = presentation.charAt(i);
+			ascii[i] = (byte) (character < 0x100 ? character : '?');
+		}
+		return decodeBytesFromAscii(ascii);
+	}
+
+	/**
+	 * Decodes ASCII bytes which are encoded by {@link #encodeBytesToAscii(byte[])}. Padding is optional, but when it is there the last group must be incomplete and be filled
+	 * up by exactly as many '=' characters as it lacks, with only line separators after them. When this base splits lines, the characters of the line separator are skipped.
+	 * Whole groups are decoded at once as long as they only contain characters of this base, other characters are decoded bit by bit.
+	 * @param ascii The encoded characters as ASCII bytes
+	 * @return The decoded bytes
+	 * @throws IllegalArgumentException if the characters are not valid for this base
+	 */
+	public byte[] decodeBytesFromAscii(final byte[] ascii) {
+		int data_end = ascii.length;
+		while (data_end > 0 && (ascii[data_end - 1] == PADDING || isLineSeparator((char) (ascii[data_end - 1] & 0xFF))))
+			data_end--;
+		final byte[] output = new byte[(int) ((long) data_end * character_bits / Byte.SIZE)];
+		int destination = 0;
+		long bits = 0;
+		int amount_bits = 0;
+		int group_position = 0;
+		int i = 0;
+		while (i < ascii.length) {
+			if (amount_bits == 0) {
+				final int end = character_bits == 6 ? decodeBase64Groups(ascii, i, output, destination) : decodeBase32Groups(ascii, i, output, destination);
+				destination += (end - i) / group_characters * group_bytes;
+				i = end;
+				if (i == ascii.length)
+					break;
+			}
+			final char character = (char) (ascii[i++] & 0xFF);
+			final int value = decode_table[character];
+			if (value > -1) {
+				bits = bits << character_bits | value;
+				amount_bits += character_bits;
+				group_position = (group_position + 1) % group_characters;
+				if (amount_bits >= Byte.SIZE) {
+					amount_bits -= Byte.SIZE;
+					output[destination++] = (byte) (bits >>> amount_bits);
+				}
+			} else if (character == PADDING) {
+				if (group_position == 0)
+					throw new IllegalArgumentException("Unexpected padding at position " + (i - 1) + ", the last group is complete");
+				int amount_padding = 1;
+				for (; i < ascii.length; i++) {
+					if (ascii[i] == PADDING)
+						amount_padding++;
+					else if (!isLineSeparator((char) (ascii[i] & 0xFF)))
+						throw new IllegalArgumentException("Invalid character after padding at position " + i);
+				}
+				if (amount_padding != group_characters - group_position)
+					throw new IllegalArgumentException("Expected " + (group_characters - group_position) + " padding characters, got " + amount_padding);
+			} else if (!isLineSeparator(character)) {
+				throw new IllegalArgumentException("Invalid character at position " + (i - 1) + ": " + character);
+			}
+		}
+		if (amount_bits >= character_bits)
+			throw new IllegalArgumentException("Incomplete group of " + amount_bits / character_bits + " characters at the end");
+		return destination == output.length ? output : Arrays.copyOf(output, destination);
+	}
+
+	/**
+	 * Decodes groups of 4 characters to 3 bytes, until the end is reached or a group contains a character which is not part of this base
+	 * @param ascii The encoded characters as ASCII bytes
+	 * @param start The position of the first character
+	 * @param output The array to write the bytes to
+	 * @param destination The position to write the first byte
+	 * @return The position after the last decoded group
+	 */
+	private int decodeBase64Groups(final byte[] ascii, final int start, final byte[] output, int destination) {
+		final int[] table = decode_table;
+		final int end = start + (ascii.length - start) / 4 * 4;
+		int i = start;
+		for (; i < end; i += 4) {
+			final int v0 = table[ascii[i] & 0xFF], v1 = table[ascii[i + 1] & 0xFF], v2 = table[ascii[i + 2] & 0xFF], v3 = table[ascii[i + 3] & 0xFF];
+			if ((v0 | v1 | v2 | v3) < 0)
+				break;
+			final int bits = v0 << 18 | v1 << 12 | v2 << 6 | v3;
+			output[destination] = (byte) (bits >>> 16);
+			output[destination + 1] = (byte) (bits >>> 8);
+			output[destination + 2] = (byte) bits;
+			destination += 3;
+		}
+		return i;
+	}
+
+	/**
+	 * Decodes groups of 8 characters to 5 bytes, until the end is reached or a group contains a character which is not part of this base
+	 * @param ascii The encoded characters as ASCII bytes
+	 * @param start The position of the first character
+	 * @param output The array to write the bytes to
+	 * @param destination The position to write the first byte
+	 * @return The position after the last decoded group
+	 */
+	private int decodeBase32Groups(final byte[] ascii, final int start, final byte[] output, int destination) {
+		final int[] table = decode_table;
+		final int end = start + (ascii.length - start) / 8 * 8;
+		int i = start;
+		for (; i < end; i += 8) {
+			final int v0 = table[ascii[i] & 0xFF], v1 = table[ascii[i + 1] & 0xFF], v2 = table[ascii[i + 2] & 0xFF], v3 = table[ascii[i + 3] & 0xFF];
+			final int v4 = table[ascii[i + 4] & 0xFF], v5 = table[ascii[i + 5] & 0xFF], v6 = table[ascii[i + 6] & 0xFF], v7 = table[ascii[i + 7] & 0xFF];
+			if ((v0 | v1 | v2 | v3 | v4 | v5 | v6 | v7) < 0)
+				break;
+			final long bits = (long) v0 << 35 | (long) v1 << 30 | (long) v2 << 25 | (long) v3 << 20 | v4 << 15 | v5 << 10 | v6 << 5 | v7;
+			output[destination] = (byte) (bits >>> 32);
+			output[destination + 1] = (byte) (bits >>> 24);
+			output[destination + 2] = (byte) (bits >>> 16);
+			output[destination + 3] = (byte) (bits >>> 8);
+			output[destination + 4] = (byte) bits;
+			destination += 5;
+		}
+		return i;
+	}
+
+	/**
+	 * Checks if the character is part of the line separator, which is only the case when this base splits lines
+	 * @param character The character to check
+	 * @return True when the character should be skipped
+	 */
+	private boolean isLineSeparator(final char character) {
+		return line_length > 0 && line_separator.indexOf(character) > -1;
+	}
+
+	@Override
+	public int hashCode () {
+		int result = super.hashCode();
+		result = 53 * result + (padding ? 1 : 0);
+		result = 53 * result + line_length;
+		result = 53 * result + line_separator.hashCode();
+		return result;
+	}
+}
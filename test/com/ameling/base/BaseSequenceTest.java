@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BaseSequenceTest {
+
+	private static final int START = 0;
+	private static final int END = 5000;
+	private static final int BLOCK_SIZE = 300;
+
+	@Test
+	public void base2SequenceTest() {
+		testSequence(new Base(2, "01".toCharArray(), "0b"));
+	}
+
+	@Test
+	public void base16SequenceTest() {
+		testSequence(new Base(16, "0123456789ABCDEF".toCharArray(), "0x"));
+	}
+
+	@Test
+	public void base32SequenceTest() {
+		testSequence(new Base(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray()));
+	}
+
+	@Test
+	public void base10SequenceTest() {
+		testSequence(new Base(10, "0123456789".toCharArray()));
+	}
+
+	public void testSequence(final Base base) {
+		final BaseSequence sequence = base.sequence(START, END);
+		for (int value = START; value < END; value++) {
+			Assert.assertTrue("Sequence has next", sequence.hasNext());
+			final BaseNumber number = sequence.next();
+			Assert.assertEquals("Sequence value", value, number.value());
+			Assert.assertEquals("Sequence representation", base.encode(value).toString(), number.toString());
+		}
+		Assert.assertFalse("Sequence has ended", sequence.hasNext());
+	}
+
+	@Test
+	public void sequenceStartTest() {
+		final Base base = new Base(16, "0123456789ABCDEF".toCharArray(), "0x");
+		final BaseSequence sequence = base.sequence(0xFFF);
+		Assert.assertEquals("0xFFF", sequence.next().toString());
+		Assert.assertEquals("0x1000", sequence.next().toString());
+		Assert.assertEquals("0x1001", sequence.next().toString());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void sequenceEndTest() {
+		final BaseSequence sequence = new Base(16, "0123456789ABCDEF".toCharArray()).sequence(1, 1);
+		sequence.next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeSequenceTest() {
+		new Base(16, "0123456789ABCDEF".toCharArray()).sequence(-1);
+	}
+
+	@Test
+	public void allocatorTest() {
+		final Base base = new Base(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray());
+		final BaseSequenceAllocator allocator = new BaseSequenceAllocator(base, START);
+		int expected = START;
+		while (expected < END) {
+			final BaseSequence sequence = allocator.reserve(BLOCK_SIZE);
+			for (int i = 0; i < BLOCK_SIZE; i++, expected++) {
+				final BaseNumber number = sequence.next();
+				Assert.assertEquals("Allocated value", expected, number.value());
+				Assert.assertEquals("Allocated representation", base.encode(expected).toString(), number.toString());
+			}
+			Assert.assertFalse("Block has ended", sequence.hasNext());
+		}
+	}
+
+	@Test
+	public void allocatorLastBlockTest() {
+		final BaseSequenceAllocator allocator = new BaseSequenceAllocator(new Base(16, "0123456789ABCDEF".toCharArray()), Integer.MAX_VALUE - 1);
+		final BaseSequence sequence = allocator.reserve(BLOCK_SIZE);
+		Assert.assertEquals("Value before last", Integer.MAX_VALUE - 1, sequence.next().value());
+		Assert.assertEquals("Last value", Integer.MAX_VALUE, sequence.next().value());
+		Assert.assertFalse("Block has ended", sequence.hasNext());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void allocatorExhaustedTest() {
+		final BaseSequenceAllocator allocator = new BaseSequenceAllocator(new Base(16, "0123456789ABCDEF".toCharArray()), Integer.MAX_VALUE);
+		allocator.reserve(BLOCK_SIZE);
+		allocator.reserve(BLOCK_SIZE);
+	}
+}
@@ -16,6 +16,10 @@
 
 package com.ameling.base;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -62,6 +66,90 @@ public class BaseTest {
 		Assert.assertEquals("Integer decoding", TESTING_NUMBER, base.decode(number.toString()));
 	}
 
+	// Validation testing
+
+	@Test
+	public void validateTest() {
+		final Base base = new Base(16, "0123456789ABCDEF".toCharArray(), "0x");
+		Assert.assertTrue("Valid with prefix", base.validate(EXPECTED_HEXA));
+		Assert.assertTrue("Valid without prefix", base.validate("DEADBEEF0123456789"));
+		Assert.assertTrue("Valid with whitespace", base.validate("  0xCAFE\n"));
+		Assert.assertFalse("Invalid character in block", base.validate("DEADBEEG01234567"));
+		Assert.assertFalse("Invalid character in tail", base.validate("DEADBEEF012345678Z"));
+		Assert.assertFalse("Non ascii character", base.validate("DEADBEEF\u00e9"));
+	}
+
+	@Test
+	public void decodedBitLengthTest() {
+		final Base base = new Base(16, "0123456789ABCDEF".toCharArray(), "0x");
+		final String presentation = "0x0123456789ABCDEF0123";
+		Assert.assertEquals("Bit length", base.decodeToBitContainer(presentation).bits(), base.decodedBitLength(presentation));
+		Assert.assertEquals("Bit length of empty", 0, base.decodedBitLength("0x"));
+		Assert.assertEquals("Bit length of invalid", -1, base.decodedBitLength("0x12G4"));
+	}
+
+	// Byte output testing
+
+	@Test
+	public void encodeToBytesTest() {
+		final Base base = new Base(16, "0123456789ABCDEF".toCharArray(), "0x");
+		final byte[] bytes = base.encodeToBytes(0xCAFE);
+		Assert.assertEquals("Encoding to bytes", "CAFE", new String(bytes, StandardCharsets.ISO_8859_1));
+		Assert.assertEquals("Encoding zero to bytes", 0, base.encodeToBytes(0).length);
+
+		final ByteBuffer buffer = ByteBuffer.allocate(16);
+		buffer.put((byte) '[');
+		base.encodeTo(TESTING_NUMBER, buffer).put((byte) ']');
+		Assert.assertEquals("Encoding to buffer", "[55]", new String(buffer.array(), 0, buffer.position(), StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	public void encodeToReadOnlyBufferTest() {
+		final ByteBuffer buffer = ByteBuffer.allocate(16).asReadOnlyBuffer();
+		try {
+			new Base(16, "0123456789ABCDEF".toCharArray()).encodeTo(TESTING_NUMBER, buffer);
+			Assert.fail("Encoding to a read only buffer");
+		} catch (final ReadOnlyBufferException e) {
+			Assert.assertEquals("Position after failed encoding", 0, buffer.position());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void encodeToBytesNonLatin1Test() {
+		new Base(2, new char[] { '\u25CB', '\u25CF' }).encodeToBytes(TESTING_NUMBER);
+	}
+
+	@Test
+	public void encodeNonLatin1Test() {
+		final Base base = new Base(2, new char[] { '\u25CB', '\u25CF' });
+		Assert.assertEquals("Encoding non Latin-1", "\u25CF\u25CB\u25CF\u25CB\u25CF\u25CB\u25CF", base.encode(TESTING_NUMBER).toString());
+	}
+
+	// Multiple target testing
+
+	@Test
+	public void encodeAllValueTest() {
+		final Base[] targets = { new Base(2, "01".toCharArray(), "0b"), new Base(8, "01234567".toCharArray(), "0"), new Base(16, "0123456789ABCDEF".toCharArray(), "0x") };
+		final BaseNumber[] numbers = Base.encodeAll(TESTING_NUMBER, targets);
+		Assert.assertEquals("Binary", EXPECTED_BINARY, numbers[0].toString());
+		Assert.assertEquals("Octal", EXPECTED_OCTAL, numbers[1].toString());
+		Assert.assertEquals("Hexadecimal", EXPECTED_HEXA, numbers[2].toString());
+	}
+
+	@Test
+	public void encodeAllBytesTest() {
+		final Base[] targets = { new Base(2, "01".toCharArray()), new Base(8, "01234567".toCharArray()), new Base(16, "0123456789ABCDEF".toCharArray()),
+				new Base(32, "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray()), new Base(64, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".toCharArray()) };
+		final byte[] data = { (byte) 0x9F, 0x00, 0x55 };
+		final String[] representations = Base.encodeAll(data, targets);
+		BitContainer container = new BitContainer(0);
+		for (int i = data.length - 1; i >= 0; i--)
+			container = container.join(new BitContainer(8, data[i]));
+		for (int t = 0; t < targets.length; t++)
+			Assert.assertEquals("Encoding " + targets[t], targets[t].encodeFromBitContainer(container).toString(), representations[t]);
+		Assert.assertEquals("Hexadecimal", "9F0055", representations[2]);
+	}
+
 	// Incorrect testing
 
 	@Test
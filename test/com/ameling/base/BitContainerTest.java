@@ -16,6 +16,8 @@
 
 package com.ameling.base;
 
+import java.util.Random;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -60,6 +62,54 @@ public class BitContainerTest {
 		Assert.assertEquals("Comparing values.", control, container.value());
 	}
 
+	@Test
+	public void testBitwiseOperations() {
+		final BitContainer container = new BitContainer(AMOUNT_OF_BITS);
+		BitContainerMock.reflectBitsField(container, getDefaultBitsArray());
+		final BitContainer other = new BitContainer(4, 0b0110);
+		testToString("Testing and: ", container.and(other), "00100000");
+		testToString("Testing or: ", container.or(other), "11110110");
+		testToString("Testing xor: ", container.xor(other), "11010110");
+		testToString("Testing and not: ", container.andNot(other), "10010110");
+		testToString("Testing and not on shorter: ", other.andNot(container), "0100");
+	}
+
+	@Test
+	public void testQueries() {
+		final BitContainer container = new BitContainer(AMOUNT_OF_BITS);
+		BitContainerMock.reflectBitsField(container, getDefaultBitsArray());
+		Assert.assertEquals("Cardinality", 5, container.cardinality());
+		Assert.assertEquals("Next set bit", 2, container.nextSetBit(1));
+		Assert.assertEquals("No next set bit", -1, container.nextSetBit(7));
+		Assert.assertEquals("Rank", 3, container.rank(5));
+		Assert.assertEquals("Rank of all bits", 5, container.rank(AMOUNT_OF_BITS));
+		Assert.assertEquals("Select", 5, container.select(3));
+		Assert.assertEquals("Select out of range", -1, container.select(5));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testNegativeNextSetBit() {
+		new BitContainer(AMOUNT_OF_BITS, TEST_NUMBER).nextSetBit(-1);
+	}
+
+	@Test
+	public void testRankIndex() {
+		final Random random = new Random(TEST_NUMBER);
+		for (final int amount_bits : new int[] { 0, 1, 63, 64, 65, 511, 512, 513, 5000 }) {
+			final boolean[] bits = new boolean[amount_bits];
+			for (int i = 0; i < bits.length; i++)
+				bits[i] = random.nextInt(3) == 0;
+			final BitContainer container = new BitContainer(amount_bits);
+			BitContainerMock.reflectBitsField(container, bits);
+			final BitRankIndex index = container.rankIndex();
+			Assert.assertEquals("Index cardinality", container.cardinality(), index.cardinality());
+			for (int i = 0; i <= amount_bits; i++)
+				Assert.assertEquals("Index rank of " + i, container.rank(i), index.rank(i));
+			for (int n = -1; n <= container.cardinality(); n++)
+				Assert.assertEquals("Index select of " + n, container.select(n), index.select(n));
+		}
+	}
+
 	private static String toBinaryString(final BitContainer container) {
 		final boolean[] bits = BitContainerMock.getBitsField(container);
 		final StringBuilder builder = new StringBuilder();
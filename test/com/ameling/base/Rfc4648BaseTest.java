@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015 Wesley Ameling
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.ameling.base;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Rfc4648BaseTest {
+
+	// The test vectors of RFC 4648 section 10
+	private static final String[] INPUTS = { "", "f", "fo", "foo", "foob", "fooba", "foobar" };
+	private static final String[] EXPECTED_BASE64 = { "", "Zg==", "Zm8=", "Zm9v", "Zm9vYg==", "Zm9vYmE=", "Zm9vYmFy" };
+	private static final String[] EXPECTED_BASE32 = { "", "MY======", "MZXQ====", "MZXW6===", "MZXW6YQ=", "MZXW6YTB", "MZXW6YTBOI======" };
+	private static final String[] EXPECTED_BASE32_HEX = { "", "CO======", "CPNG====", "CPNMU===", "CPNMUOG=", "CPNMUOJ1", "CPNMUOJ1E8======" };
+
+	private static final int RANDOM_SEED = 4648;
+	private static final int RANDOM_LENGTH = 1000;
+
+	@Test
+	public void base64VectorsTest() {
+		testVectors(BaseFactory.getRfc4648Base64(), EXPECTED_BASE64);
+	}
+
+	@Test
+	public void base32VectorsTest() {
+		testVectors(BaseFactory.getRfc4648Base32(), EXPECTED_BASE32);
+	}
+
+	@Test
+	public void base32HexVectorsTest() {
+		testVectors(BaseFactory.getRfc4648Base32Hex(), EXPECTED_BASE32_HEX);
+	}
+
+	public void testVectors(final Rfc4648Base base, final String[] expected) {
+		for (int i = 0; i < INPUTS.length; i++) {
+			final byte[] input = INPUTS[i].getBytes(StandardCharsets.US_ASCII);
+			Assert.assertEquals("Encoding " + INPUTS[i], expected[i], base.encodeBytes(input));
+			Assert.assertArrayEquals("Decoding " + expected[i], input, base.decodeBytes(expected[i]));
+			final String unpadded = expected[i].replace("=", "");
+			Assert.assertEquals("Encoding without padding " + INPUTS[i], unpadded, base.withoutPadding().encodeBytes(input));
+			Assert.assertArrayEquals("Decoding without padding " + unpadded, input, base.decodeBytes(unpadded));
+		}
+	}
+
+	@Test
+	public void base64InteroperabilityTest() {
+		final Random random = new Random(RANDOM_SEED);
+		for (int length = 0; length < RANDOM_LENGTH; length += 1 + length / 4) {
+			final byte[] data = new byte[length];
+			random.nextBytes(data);
+			testInteroperability(BaseFactory.getRfc4648Base64(), Base64.getEncoder().encodeToString(data), data);
+			testInteroperability(BaseFactory.getRfc4648Base64Url(), Base64.getUrlEncoder().encodeToString(data), data);
+			testInteroperability(BaseFactory.getRfc4648Base64Url().withoutPadding(), Base64.getUrlEncoder().withoutPadding().encodeToString(data), data);
+			testInteroperability(BaseFactory.getRfc4648Base64().withLineLength(76, "\r\n"), Base64.getMimeEncoder().encodeToString(data), data);
+			testInteroperability(BaseFactory.getRfc4648Base64().withLineLength(10, "\n"), Base64.getMimeEncoder(10, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(data), data);
+		}
+	}
+
+	private static void testInteroperability(final Rfc4648Base base, final String expected, final byte[] data) {
+		Assert.assertEquals("Encoding " + data.length + " bytes", expected, base.encodeBytes(data));
+		Assert.assertArrayEquals("Decoding " + data.length + " bytes", data, base.decodeBytes(expected));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCharacterTest() {
+		BaseFactory.getRfc4648Base64().decodeBytes("Zm9v*mFy");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void lineSeparatorWithoutLinesTest() {
+		BaseFactory.getRfc4648Base64().decodeBytes("Zm9v\r\nYmFy");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void dataAfterPaddingTest() {
+		BaseFactory.getRfc4648Base64().decodeBytes("Zg==Zg==");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void paddingAfterCompleteGroupTest() {
+		BaseFactory.getRfc4648Base64().decodeBytes("Zm9v=");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tooLittlePaddingTest() {
+		BaseFactory.getRfc4648Base64().decodeBytes("Zg=");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void tooMuchPaddingTest() {
+		BaseFactory.getRfc4648Base32().decodeBytes("MZXW6====");
+	}
+
+	@Test
+	public void paddingWithLineSeparatorTest() {
+		Assert.assertArrayEquals("Decoding padding split over lines", "f".getBytes(StandardCharsets.US_ASCII),
+				BaseFactory.getRfc4648Base32().withLineLength(8, "\n").decodeBytes("MY==\n===="));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void incompleteGroupTest() {
+		BaseFactory.getRfc4648Base32().decodeBytes("MZX=====");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBaseTest() {
+		new Rfc4648Base(16, "0123456789ABCDEF".toCharArray());
+	}
+
+	@Test
+	public void numericEncodingTest() {
+		Assert.assertEquals("Numeric encoding", BaseFactory.getBase(64).encode(RANDOM_SEED).toString(), BaseFactory.getRfc4648Base64().encode(RANDOM_SEED).toString());
+	}
+}